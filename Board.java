@@ -89,15 +89,17 @@ public class Board {
      * @param row the row of the recently placed symbol
      * @param col the column of the recently placed symbol
      * @param symbol the player's symbol ("X" or "O")
+     * @return the number of symbols that were removed (0, 1 or 2)
      */
-    public void handleAdjacentCount(int row, int col, String symbol) {
+    public int handleAdjacentCount(int row, int col, String symbol) {
         int adjacentCount = countAdjacent(row, col, symbol);
         System.out.println(adjacentCount);
         if (adjacentCount == 3) {
-            removeRandomSigns(symbol, 1); // Remove 1 symbol if 3 adjacent symbols
+            return removeRandomSigns(symbol, 1); // Remove 1 symbol if 3 adjacent symbols
         } else if (adjacentCount == 4) {
-            removeRandomSigns(symbol, 2); // Remove 2 symbols if 4 adjacent symbols
+            return removeRandomSigns(symbol, 2); // Remove 2 symbols if 4 adjacent symbols
         }
+        return 0;
     }
 
     /**
@@ -162,8 +164,9 @@ public class Board {
      * 
      * @param symbol the symbol to remove (either "X" or "O")
      * @param removeCount the number of symbols to remove
+     * @return the number of symbols that were actually removed
      */
-    private void removeRandomSigns(String symbol, int removeCount) {
+    private int removeRandomSigns(String symbol, int removeCount) {
         ArrayList<int[]> positions = new ArrayList<>();
         for (int i = 0; i < size; i++) {
             for (int j = 0; j < size; j++) {
@@ -174,10 +177,13 @@ public class Board {
         }
 
         // Ensure we only remove a valid number of signs
+        int removed = 0;
         for (int i = 0; i < removeCount && !positions.isEmpty(); i++) {
             int[] pos = positions.remove(random.nextInt(positions.size()));
             board[pos[0]][pos[1]] = null;
+            removed++;
         }
+        return removed;
     }
 
     /**
@@ -207,6 +213,15 @@ public class Board {
         }
     }
 
+    /**
+     * Returns the size of the board.
+     * 
+     * @return the number of rows (and columns) of the board
+     */
+    public int getSize() {
+        return size;
+    }
+
     /**
      * Returns the symbol at the specified position on the board.
      * 
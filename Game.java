@@ -18,6 +18,8 @@ public class Game {
     private Board board;
     private Player player1, player2;
     private Player currentPlayer;
+    private Player winner;
+    private int moveCount = 0;
     private boolean gameOver = false;
 
     /**
@@ -47,10 +49,12 @@ public class Game {
     public boolean makeMove(int row, int col) {
         Player current = getCurrentPlayer();
         if (board.placeSign(row, col, current.getSymbol())) {
-            board.handleAdjacentCount(row, col, current.getSymbol());
+            moveCount++;
+            current.recordPenalty(board.handleAdjacentCount(row, col, current.getSymbol()));
 
             if (board.checkFiveInARow(current.getSymbol())) {
                 System.out.println("Player " + current.getSymbol() + " wins!");
+                winner = current;
                 gameOver = true;
                 return true;
             } else if (board.isFull()) {
@@ -99,6 +103,42 @@ public class Game {
         return gameOver;
     }
 
+    /**
+     * Returns the player who won the game.
+     * 
+     * @return the winning player, or null if the game is not over or ended in a draw
+     */
+    public Player getWinner() {
+        return winner;
+    }
+
+    /**
+     * Returns the number of moves made so far by both players.
+     * 
+     * @return the number of successful moves
+     */
+    public int getMoveCount() {
+        return moveCount;
+    }
+
+    /**
+     * Returns Player 1, who plays with the "X" symbol.
+     * 
+     * @return Player 1
+     */
+    public Player getPlayer1() {
+        return player1;
+    }
+
+    /**
+     * Returns Player 2, who plays with the "O" symbol.
+     * 
+     * @return Player 2
+     */
+    public Player getPlayer2() {
+        return player2;
+    }
+
     /**
      * Prints the current state of the game board to the console.
      */
@@ -0,0 +1,233 @@
+package com.mycompany.fiveinarow;
+
+import com.mycompany.fiveinarow.GameStatsStore.Column;
+import com.mycompany.fiveinarow.GameStatsStore.Segment;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * The GameStatsQuery class runs filter and aggregate queries over a {@link GameStatsStore}.
+ * Filters are inclusive value ranges on a column, and every filter must match for a game
+ * to be counted. For example, the number of 10x10 games won by "X" after "X" lost two
+ * symbols at least once is:
+ *
+ * <pre>
+ * new GameStatsQuery()
+ *         .whereEquals(Column.BOARD_SIZE, 10)
+ *         .where(Column.X_DOUBLE_REMOVALS, 1, Integer.MAX_VALUE)
+ *         .whereEquals(Column.WINNER, GameStatsStore.X_WINS)
+ *         .count(store);
+ * </pre>
+ *
+ * <p>Segments are scanned in parallel on the common fork-join pool. A segment whose
+ * zone map shows that no row can match is skipped without reading its columns.</p>
+ */
+public class GameStatsQuery {
+    private final List<Filter> filters = new ArrayList<>();
+
+    /**
+     * Keeps only the games where the column value lies between the given bounds.
+     *
+     * @param column the column to filter on
+     * @param low the smallest accepted value (inclusive)
+     * @param high the largest accepted value (inclusive)
+     * @return this query, for chaining
+     * @throws IllegalArgumentException if low is greater than high
+     */
+    public GameStatsQuery where(Column column, int low, int high) {
+        if (low > high) {
+            throw new IllegalArgumentException("Empty range [" + low + ", " + high + "] for " + column);
+        }
+        filters.add(new Filter(column, low, high));
+        return this;
+    }
+
+    /**
+     * Keeps only the games where the column has the given value.
+     *
+     * @param column the column to filter on
+     * @param value the accepted value
+     * @return this query, for chaining
+     */
+    public GameStatsQuery whereEquals(Column column, int value) {
+        return where(column, value, value);
+    }
+
+    /**
+     * Counts the games that match every filter.
+     *
+     * @param store the store to query
+     * @return the number of matching games
+     */
+    public long count(GameStatsStore store) {
+        return run(store, null, 1)[0];
+    }
+
+    /**
+     * Adds up a column over the games that match every filter.
+     *
+     * @param store the store to query
+     * @param column the column to add up
+     * @return the sum of the column over the matching games
+     */
+    public long sum(GameStatsStore store, Column column) {
+        return run(store, column, 0)[0];
+    }
+
+    /**
+     * Counts the matching games for every value of a column. Values outside
+     * {@code [0, buckets)} are ignored.
+     *
+     * <p>For example, {@code countBy(store, Column.WINNER, 3)} returns the number of draws,
+     * "X" wins and "O" wins.</p>
+     *
+     * @param store the store to query
+     * @param column the column to group by
+     * @param buckets the number of values to count
+     * @return an array where index i holds the number of matching games with value i
+     * @throws IllegalArgumentException if buckets is not positive
+     */
+    public long[] countBy(GameStatsStore store, Column column, int buckets) {
+        if (buckets <= 0) {
+            throw new IllegalArgumentException("Bucket count must be positive: " + buckets);
+        }
+        return run(store, column, buckets);
+    }
+
+    /**
+     * Runs the query over every segment of the store.
+     *
+     * @param store the store to query
+     * @param target the column to aggregate, or null to count rows
+     * @param buckets 0 to sum the target column, otherwise the number of result slots
+     * @return the aggregated result
+     */
+    private long[] run(GameStatsStore store, Column target, int buckets) {
+        Segment[] segments = store.segments();
+        if (segments.length == 0) {
+            return new long[Math.max(buckets, 1)];
+        }
+        return ForkJoinPool.commonPool().invoke(new ScanTask(segments, 0, segments.length, target, buckets));
+    }
+
+    /**
+     * Scans a single segment.
+     *
+     * @param segment the segment to scan
+     * @param target the column to aggregate, or null to count rows
+     * @param buckets 0 to sum the target column, otherwise the number of result slots
+     * @return the partial result for this segment
+     */
+    private long[] scan(Segment segment, Column target, int buckets) {
+        long[] result = new long[Math.max(buckets, 1)];
+        int rows = segment.rows();
+        if (rows == 0) {
+            return result;
+        }
+
+        // Use the zone map to skip the segment or drop filters every row already satisfies
+        List<Filter> active = new ArrayList<>();
+        for (Filter filter : filters) {
+            int min = segment.min(filter.column);
+            int max = segment.max(filter.column);
+            if (max < filter.low || min > filter.high) {
+                return result;
+            }
+            if (min < filter.low || max > filter.high) {
+                active.add(filter);
+            }
+        }
+        if (active.isEmpty() && target == null) {
+            result[0] = rows;
+            return result;
+        }
+
+        int filterCount = active.size();
+        IntBuffer[] columns = new IntBuffer[filterCount];
+        int[] lows = new int[filterCount];
+        int[] spans = new int[filterCount];
+        for (int f = 0; f < filterCount; f++) {
+            Filter filter = active.get(f);
+            columns[f] = segment.column(filter.column);
+            lows[f] = filter.low;
+            spans[f] = filter.high - filter.low;
+        }
+        IntBuffer values = target == null ? null : segment.column(target);
+
+        for (int row = 0; row < rows; row++) {
+            boolean matches = true;
+            for (int f = 0; f < filterCount && matches; f++) {
+                // Unsigned compare checks low <= value <= high in one step
+                matches = Integer.compareUnsigned(columns[f].get(row) - lows[f], spans[f]) <= 0;
+            }
+            if (!matches) {
+                continue;
+            }
+            if (values == null) {
+                result[0]++;
+            } else if (buckets == 0) {
+                result[0] += values.get(row);
+            } else {
+                int value = values.get(row);
+                if (value >= 0 && value < buckets) {
+                    result[value]++;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * An inclusive value range on a single column.
+     */
+    private static final class Filter {
+        private final Column column;
+        private final int low;
+        private final int high;
+
+        private Filter(Column column, int low, int high) {
+            this.column = column;
+            this.low = low;
+            this.high = high;
+        }
+    }
+
+    /**
+     * Splits a range of segments in half until a single segment is left,
+     * then scans it and adds the partial results back together.
+     */
+    private final class ScanTask extends RecursiveTask<long[]> {
+        private final Segment[] segments;
+        private final int from;
+        private final int to;
+        private final Column target;
+        private final int buckets;
+
+        private ScanTask(Segment[] segments, int from, int to, Column target, int buckets) {
+            this.segments = segments;
+            this.from = from;
+            this.to = to;
+            this.target = target;
+            this.buckets = buckets;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (to - from == 1) {
+                return scan(segments[from], target, buckets);
+            }
+            int mid = (from + to) >>> 1;
+            ScanTask left = new ScanTask(segments, from, mid, target, buckets);
+            left.fork();
+            long[] right = new ScanTask(segments, mid, to, target, buckets).compute();
+            long[] result = left.join();
+            for (int i = 0; i < result.length; i++) {
+                result[i] += right[i];
+            }
+            return result;
+        }
+    }
+}
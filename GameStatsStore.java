@@ -0,0 +1,171 @@
+package com.mycompany.fiveinarow;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The GameStatsStore class keeps the results of finished games for later analysis.
+ * Each game becomes one row, and the rows are stored column by column in off-heap
+ * segments so that queries only touch the columns they need.
+ *
+ * <p>Every segment also keeps a zone map (the minimum and maximum value of each column),
+ * which lets {@link GameStatsQuery} skip whole segments that cannot match a filter.</p>
+ *
+ * <p>Games can be added while queries are running; a query sees every game that was
+ * added before it started.</p>
+ */
+public class GameStatsStore {
+
+    /**
+     * The columns recorded for every game.
+     */
+    public enum Column {
+        /** The size of the board (6, 10 or 14). */
+        BOARD_SIZE,
+        /** The number of moves made by both players. */
+        MOVES,
+        /** The winner of the game: 0 for a draw, 1 for "X" and 2 for "O". */
+        WINNER,
+        /** How many times "X" lost one symbol for making three adjacent symbols. */
+        X_SINGLE_REMOVALS,
+        /** How many times "X" lost two symbols for making four adjacent symbols. */
+        X_DOUBLE_REMOVALS,
+        /** How many times "O" lost one symbol for making three adjacent symbols. */
+        O_SINGLE_REMOVALS,
+        /** How many times "O" lost two symbols for making four adjacent symbols. */
+        O_DOUBLE_REMOVALS
+    }
+
+    /** The value stored in the {@link Column#WINNER} column when the game was a draw. */
+    public static final int DRAW = 0;
+
+    /** The value stored in the {@link Column#WINNER} column when "X" won. */
+    public static final int X_WINS = 1;
+
+    /** The value stored in the {@link Column#WINNER} column when "O" won. */
+    public static final int O_WINS = 2;
+
+    /** The number of rows held by a single segment. */
+    static final int SEGMENT_ROWS = 1 << 16;
+
+    private static final Column[] COLUMNS = Column.values();
+
+    private final List<Segment> segments = new ArrayList<>();
+    private Segment current;
+    private long rowCount;
+
+    /**
+     * Adds the result of a finished game to the store.
+     *
+     * @param game the game to record
+     * @throws IllegalArgumentException if the game is not over yet
+     */
+    public void add(Game game) {
+        if (!game.isGameOver()) {
+            throw new IllegalArgumentException("Only finished games can be recorded");
+        }
+        Player x = game.getPlayer1();
+        Player o = game.getPlayer2();
+        Player winner = game.getWinner();
+
+        int[] row = new int[COLUMNS.length];
+        row[Column.BOARD_SIZE.ordinal()] = game.getBoard().getSize();
+        row[Column.MOVES.ordinal()] = game.getMoveCount();
+        row[Column.WINNER.ordinal()] = winner == null ? DRAW : (winner == x ? X_WINS : O_WINS);
+        row[Column.X_SINGLE_REMOVALS.ordinal()] = x.getSingleRemovals();
+        row[Column.X_DOUBLE_REMOVALS.ordinal()] = x.getDoubleRemovals();
+        row[Column.O_SINGLE_REMOVALS.ordinal()] = o.getSingleRemovals();
+        row[Column.O_DOUBLE_REMOVALS.ordinal()] = o.getDoubleRemovals();
+        addRow(row);
+    }
+
+    /**
+     * Appends one row of column values, in {@link Column} order.
+     *
+     * @param values the value of every column
+     */
+    synchronized void addRow(int[] values) {
+        if (current == null || current.isFull()) {
+            current = new Segment();
+            segments.add(current);
+        }
+        current.append(values);
+        rowCount++;
+    }
+
+    /**
+     * Returns the number of games recorded in the store.
+     *
+     * @return the number of rows
+     */
+    public synchronized long size() {
+        return rowCount;
+    }
+
+    /**
+     * Returns the segments that exist at the time of the call.
+     *
+     * @return a copy of the segment list
+     */
+    synchronized Segment[] segments() {
+        return segments.toArray(new Segment[0]);
+    }
+
+    /**
+     * A fixed-size block of rows. Every column is an off-heap buffer of ints,
+     * and the zone map is updated as rows are appended.
+     */
+    static final class Segment {
+        private final IntBuffer[] columns = new IntBuffer[COLUMNS.length];
+        private final int[] min = new int[COLUMNS.length];
+        private final int[] max = new int[COLUMNS.length];
+
+        // Written last on append, so readers that see a row also see its values
+        private volatile int rows;
+
+        Segment() {
+            for (int c = 0; c < columns.length; c++) {
+                columns[c] = ByteBuffer.allocateDirect(SEGMENT_ROWS * Integer.BYTES)
+                        .order(ByteOrder.nativeOrder())
+                        .asIntBuffer();
+            }
+            Arrays.fill(min, Integer.MAX_VALUE);
+            Arrays.fill(max, Integer.MIN_VALUE);
+        }
+
+        private boolean isFull() {
+            return rows == SEGMENT_ROWS;
+        }
+
+        private void append(int[] values) {
+            int row = rows;
+            for (int c = 0; c < columns.length; c++) {
+                int value = values[c];
+                columns[c].put(row, value);
+                min[c] = Math.min(min[c], value);
+                max[c] = Math.max(max[c], value);
+            }
+            rows = row + 1;
+        }
+
+        int rows() {
+            return rows;
+        }
+
+        IntBuffer column(Column column) {
+            return columns[column.ordinal()];
+        }
+
+        int min(Column column) {
+            return min[column.ordinal()];
+        }
+
+        int max(Column column) {
+            return max[column.ordinal()];
+        }
+    }
+}
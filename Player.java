@@ -9,6 +9,8 @@ package com.mycompany.fiveinarow;
 public class Player {
     private String name;
     private String symbol;
+    private int singleRemovals;
+    private int doubleRemovals;
 
     /**
      * Constructs a new Player with the specified name and symbol.
@@ -47,4 +49,35 @@ public class Player {
     public void setName(String name) {
         this.name = name;
     }
+
+    /**
+     * Records a penalty applied to this player by the adjacent count rule.
+     * 
+     * @param removedCount the number of this player's symbols that were removed (1 or 2)
+     */
+    public void recordPenalty(int removedCount) {
+        if (removedCount == 1) {
+            singleRemovals++;
+        } else if (removedCount == 2) {
+            doubleRemovals++;
+        }
+    }
+
+    /**
+     * Returns how many times this player lost one symbol for making three adjacent symbols.
+     * 
+     * @return the number of single removals
+     */
+    public int getSingleRemovals() {
+        return singleRemovals;
+    }
+
+    /**
+     * Returns how many times this player lost two symbols for making four adjacent symbols.
+     * 
+     * @return the number of double removals
+     */
+    public int getDoubleRemovals() {
+        return doubleRemovals;
+    }
 }